@@ -0,0 +1,14 @@
+package it.descriptor;
+
+public final class Code {
+
+	private final String value;
+
+	public Code( String value ) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+}
@@ -0,0 +1,18 @@
+package it.descriptor;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter( autoApply = true )
+public class CodeConverter implements AttributeConverter<Code, String> {
+
+	@Override
+	public String convertToDatabaseColumn( Code attribute ) {
+		return attribute == null ? null : attribute.getValue();
+	}
+
+	@Override
+	public Code convertToEntityAttribute( String dbData ) {
+		return dbData == null ? null : new Code( dbData );
+	}
+}
@@ -0,0 +1,11 @@
+package it.descriptor;
+
+import jakarta.persistence.Entity;
+
+/**
+ * References the {@code @Entity} descriptor in its constant pool without being annotated.
+ */
+public class NotAnEntity {
+
+	private Entity marker;
+}
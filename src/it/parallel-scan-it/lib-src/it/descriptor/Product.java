@@ -0,0 +1,14 @@
+package it.descriptor;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+public class Product {
+
+	@Id
+	private Long id;
+
+	// mapped through the auto applied CodeConverter
+	private Code code;
+}
@@ -0,0 +1,13 @@
+package it.prefixed;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+public class Warehouse {
+
+	@Id
+	private Long id;
+
+	private String location;
+}
@@ -0,0 +1,25 @@
+package it.stored;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// array, enum and nested element values in front of @Entity
+@Table( name = "customer", uniqueConstraints = @UniqueConstraint( columnNames = { "firstName", "lastName" } ) )
+@Inheritance( strategy = InheritanceType.JOINED )
+@NamedQueries( { @NamedQuery( name = "Customer.all", query = "select c from Customer c" ) } )
+@Entity
+public class Customer {
+
+	@Id
+	private Long id;
+
+	private String firstName;
+
+	private String lastName;
+}
@@ -0,0 +1,54 @@
+import java.util.zip.CRC32
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+import javax.tools.ToolProvider
+
+// compile the classes for the jar dependencies against the jakarta.persistence-api installed for the ITs
+def apiDir = new File( localRepositoryPath, 'jakarta/persistence/jakarta.persistence-api' )
+def api = apiDir.listFiles()?.collect { new File( it, "jakarta.persistence-api-${it.name}.jar" ) }?.find { it.isFile() }
+assert api : "jakarta.persistence-api not found in ${apiDir}"
+
+def classes = new File( basedir, 'lib-classes' )
+classes.mkdirs()
+def sources = []
+new File( basedir, 'lib-src' ).eachFileRecurse { if( it.name.endsWith( '.java' ) ) sources << it.path }
+def arguments = [ '--release', '11', '-cp', api.path, '-d', classes.path ] + sources
+assert ToolProvider.systemJavaCompiler.run( null, null, null, arguments as String[] ) == 0
+
+def writeJar = { OutputStream out, String pkg, boolean stored ->
+	def zip = new ZipOutputStream( out )
+	def segments = pkg.split( '/' )
+	for( int i = 1; i <= segments.length; i++ ) {
+		zip.putNextEntry( new ZipEntry( segments[0..<i].join( '/' ) + '/' ) )
+		zip.closeEntry()
+	}
+	new File( classes, pkg ).listFiles().findAll { it.name.endsWith( '.class' ) }.sort { it.name }.each { file ->
+		def bytes = file.bytes
+		def entry = new ZipEntry( "${pkg}/${file.name}" )
+		if( stored ) {
+			def crc = new CRC32()
+			crc.update( bytes )
+			entry.method = ZipEntry.STORED
+			entry.size = bytes.length
+			entry.compressedSize = bytes.length
+			entry.crc = crc.value
+		}
+		// deflated entries without known sizes are written with a data descriptor
+		zip.putNextEntry( entry )
+		zip.write( bytes )
+		zip.closeEntry()
+	}
+	zip.finish()
+}
+
+def libs = new File( basedir, 'libs' )
+libs.mkdirs()
+new File( libs, 'stored.jar' ).withOutputStream { writeJar( it, 'it/stored', true ) }
+new File( libs, 'descriptor.jar' ).withOutputStream { writeJar( it, 'it/descriptor', false ) }
+new File( libs, 'prefixed.jar' ).withOutputStream { out ->
+	// self-executing jar, the central directory offsets don't account for the prefix
+	out.write( '#!/bin/sh\nexec java -jar "$0" "$@"\n'.getBytes( 'US-ASCII' ) )
+	writeJar( out, 'it/prefixed', false )
+}
+
+return true
@@ -0,0 +1,14 @@
+package it.app;
+
+public final class Flag {
+
+	private final boolean set;
+
+	public Flag( boolean set ) {
+		this.set = set;
+	}
+
+	public boolean isSet() {
+		return set;
+	}
+}
@@ -0,0 +1,18 @@
+package it.app;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter( autoApply = true )
+public class FlagConverter implements AttributeConverter<Flag, String> {
+
+	@Override
+	public String convertToDatabaseColumn( Flag attribute ) {
+		return attribute == null ? null : attribute.isSet() ? "Y" : "N";
+	}
+
+	@Override
+	public Flag convertToEntityAttribute( String dbData ) {
+		return dbData == null ? null : new Flag( "Y".equals( dbData ) );
+	}
+}
@@ -0,0 +1,30 @@
+package it.app;
+
+import it.descriptor.Product;
+import it.stored.Customer;
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+// array, enum and nested element values in front of @Entity
+@Table( name = "purchase", indexes = { @Index( name = "purchase_flag", columnList = "flag" ) } )
+@Access( AccessType.FIELD )
+@Entity
+public class Purchase {
+
+	@Id
+	private Long id;
+
+	@ManyToOne
+	private Customer customer;
+
+	@ManyToOne
+	private Product product;
+
+	// mapped through the auto applied FlagConverter
+	private Flag flag;
+}
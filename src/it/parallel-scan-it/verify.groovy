@@ -0,0 +1,26 @@
+def ddl = { String name ->
+	File file = new File( basedir, "target/ddl-${name}/postgresql.sql" )
+	assert file.isFile()
+	file.text
+}
+
+def reflections = ddl( 'reflections' )
+def parallel = ddl( 'parallel' )
+assert parallel == reflections
+
+// target/classes, stored, data descriptor and prefixed jar entries
+[ 'purchase', 'customer', 'product', 'warehouse' ].each { table ->
+	assert parallel =~ /(?i)create table ${table}\b/
+}
+assert !( parallel =~ /(?i)notanentity/ )
+// auto applied converters from target/classes and a jar
+assert parallel =~ /(?i)\bflag varchar/
+assert parallel =~ /(?i)\bcode varchar/
+
+def packagesReflections = ddl( 'packages-reflections' )
+def packagesParallel = ddl( 'packages-parallel' )
+assert packagesParallel == packagesReflections
+[ 'purchase', 'customer', 'product' ].each { table ->
+	assert packagesParallel =~ /(?i)create table ${table}\b/
+}
+assert !( packagesParallel =~ /(?i)create table warehouse\b/ )
@@ -0,0 +1,14 @@
+package it.model;
+
+import jakarta.persistence.Embeddable;
+
+import org.hibernate.annotations.Struct;
+
+@Embeddable
+@Struct( name = "address_type" )
+public class Address {
+
+	private String street;
+
+	private String city;
+}
@@ -0,0 +1,13 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+public class Author {
+
+	@Id
+	private Long id;
+
+	private String name;
+}
@@ -0,0 +1,15 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class Book {
+
+	@Id
+	private Long id;
+
+	@ManyToOne
+	private Author author;
+}
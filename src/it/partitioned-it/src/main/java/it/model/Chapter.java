@@ -0,0 +1,15 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class Chapter {
+
+	@Id
+	private Long id;
+
+	@ManyToOne
+	private Book book;
+}
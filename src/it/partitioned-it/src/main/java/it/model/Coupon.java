@@ -0,0 +1,17 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+
+@Entity
+public class Coupon {
+
+	@Id
+	@GeneratedValue( generator = "coupon_gen" )
+	@TableGenerator( name = "coupon_gen", table = "id_gen", pkColumnValue = "coupon" )
+	private Long id;
+
+	private String code;
+}
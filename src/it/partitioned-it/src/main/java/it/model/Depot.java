@@ -0,0 +1,13 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+public class Depot {
+
+	@Id
+	private Long id;
+
+	private Address address;
+}
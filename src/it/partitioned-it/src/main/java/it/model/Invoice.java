@@ -0,0 +1,20 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Entity
+public class Invoice {
+
+	@Id
+	private Long id;
+
+	@Enumerated( EnumType.STRING )
+	@JdbcTypeCode( SqlTypes.NAMED_ENUM )
+	private Status status;
+}
@@ -0,0 +1,15 @@
+package it.model;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+
+@MappedSuperclass
+public abstract class Owned<T> {
+
+	@Id
+	private Long id;
+
+	@ManyToOne
+	private T owner;
+}
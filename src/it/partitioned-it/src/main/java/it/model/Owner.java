@@ -0,0 +1,11 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity
+public class Owner {
+
+	@Id
+	private Long id;
+}
@@ -0,0 +1,9 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+
+@Entity
+public class Pet extends Owned<Owner> {
+
+	private String name;
+}
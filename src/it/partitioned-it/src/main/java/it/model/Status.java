@@ -0,0 +1,5 @@
+package it.model;
+
+public enum Status {
+	OPEN, CLOSED
+}
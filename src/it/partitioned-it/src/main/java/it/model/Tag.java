@@ -0,0 +1,17 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+@Entity
+public class Tag {
+
+	@Id
+	@GeneratedValue( generator = "shared" )
+	@SequenceGenerator( name = "shared", sequenceName = "shared_seq" )
+	private Long id;
+
+	private String name;
+}
@@ -0,0 +1,17 @@
+package it.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+
+@Entity
+public class Voucher {
+
+	@Id
+	@GeneratedValue( generator = "voucher_gen" )
+	@TableGenerator( name = "voucher_gen", table = "id_gen", pkColumnValue = "voucher" )
+	private Long id;
+
+	private String code;
+}
@@ -0,0 +1 @@
+insert into Tag (id, name) values (1, 'imported');
@@ -0,0 +1,59 @@
+def tables = [ 'author', 'book', 'chapter', 'tag', 'label', 'owner', 'pet', 'voucher', 'coupon', 'id_gen',
+	'ticket', 'invoice', 'shop', 'depot' ]
+def types = [ 'status', 'address_type' ]
+
+def statements = { String name ->
+	File file = new File( basedir, "target/${name}/postgresql.sql" )
+	assert file.isFile()
+	file.text.split( ';' )*.trim().findAll { it }*.replaceAll( /\s+/, ' ' )*.toLowerCase()
+}
+
+def verifyCreate = { List<String> sql ->
+	def created = [] as Set
+	def createdTypes = [] as Set
+	sql.findAll { !it.startsWith( 'drop ' ) }.each { statement ->
+		def type = statement =~ /^create type (\S+) as/
+		if( type ) {
+			assert createdTypes.add( type[0][1] ) : "type ${type[0][1]} created twice"
+		}
+		def table = statement =~ /^create table (\S+)/
+		if( table ) {
+			assert created.add( table[0][1] ) : "table ${table[0][1]} created twice"
+		}
+		def foreignKey = statement =~ /^alter table (?:if exists )?(\S+) .* references (\S+)/
+		if( foreignKey ) {
+			assert created.contains( foreignKey[0][1] ) : statement
+			assert created.contains( foreignKey[0][2] ) : statement
+		}
+		if( statement.startsWith( 'insert into tag' ) ) {
+			assert created.containsAll( tables ) : "import.sql applied before all tables were created"
+		}
+	}
+	assert created == tables as Set
+	assert createdTypes == types as Set
+	assert sql.count { it.startsWith( 'create sequence shared_seq' ) } == 1
+	assert sql.count { it.startsWith( 'insert into tag' ) } == 1
+	assert sql.findIndexOf { it.startsWith( 'create sequence shared_seq' ) } < sql.findIndexOf { it.startsWith( 'create table tag' ) }
+	// both generators sharing id_gen need their segment row
+	[ 'voucher', 'coupon' ].each { segment ->
+		assert sql.count { it ==~ /^insert into id_gen ?\(.*\) values ?\('${segment}', ?\d+\)/ } == 1 : "missing segment row ${segment}"
+	}
+}
+
+verifyCreate( statements( 'ddl-create' ) )
+
+def createDrop = statements( 'ddl-create-drop' )
+verifyCreate( createDrop )
+assert createDrop.findLastIndexOf { it.startsWith( 'drop ' ) } < createDrop.findIndexOf { it.startsWith( 'create ' ) }
+assert createDrop.count { it.startsWith( 'drop sequence if exists shared_seq' ) } == 1
+tables.each { table ->
+	assert createDrop.count { it ==~ /^drop table if exists ${table}( cascade)?/ } == 1
+}
+types.each { type ->
+	assert createDrop.count { it ==~ /^drop type (if exists )?${type}( cascade)?/ } == 1
+}
+
+// the partitioned generation only changes the order, never the statements
+[ 'ddl-create', 'ddl-create-drop' ].each { name ->
+	assert statements( name ).sort() == statements( "${name}-unpartitioned" ).sort()
+}
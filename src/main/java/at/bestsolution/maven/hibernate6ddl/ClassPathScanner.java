@@ -0,0 +1,524 @@
+/*
+ * Copyright (C) 2026 BestSolution.at
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package at.bestsolution.maven.hibernate6ddl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Scans classpath elements for classes annotated with {@code @Entity} or
+ * {@code @Converter} without loading them. Every classpath element is
+ * processed as its own task in a work-stealing {@link ForkJoinPool}, jar files
+ * with many entries and directories are split further, so the scan time
+ * scales with the number of available cores.
+ * <p>
+ * Jar files are memory-mapped: the central directory and the class bytes are
+ * read directly from the mapping. The constant pool of every class is checked
+ * for the annotation descriptors first, only classes referencing one of them
+ * are parsed up to their class level annotations.
+ */
+final class ClassPathScanner {
+
+	private static final byte[] ENTITY_DESCRIPTOR = "Ljakarta/persistence/Entity;".getBytes( StandardCharsets.US_ASCII );
+	private static final byte[] CONVERTER_DESCRIPTOR = "Ljakarta/persistence/Converter;".getBytes( StandardCharsets.US_ASCII );
+	private static final byte[] RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations".getBytes( StandardCharsets.US_ASCII );
+
+	private static final int CLASS_MAGIC = 0xCAFEBABE;
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+	private static final int LOCAL_FILE_HEADER = 0x04034b50;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	/**
+	 * Number of jar entries processed by one task before the remaining entries
+	 * are split up for other workers.
+	 */
+	private static final int ENTRIES_PER_TASK = 512;
+
+	/**
+	 * Upper bound for the size of a class file, larger entries are considered
+	 * corrupt.
+	 */
+	private static final int MAX_CLASS_FILE_SIZE = 64 * 1024 * 1024;
+
+	private final Log log;
+	private final List<String> packagePrefixes = new ArrayList<>();
+	private final Set<String> classNames = ConcurrentHashMap.newKeySet();
+
+	private ClassPathScanner( final Log log, final Collection<String> packageNames ) {
+		this.log = log;
+		for( final String packageName : packageNames ) {
+			packagePrefixes.add( packageName.replace( '.', '/' ) + "/" );
+		}
+	}
+
+	/**
+	 * Scans the provided classpath elements.
+	 *
+	 * @param log               An Maven log object for creating output.
+	 * @param classPathElements The directories and jar files to scan.
+	 * @param packageNames      Only classes in one of these packages (or their
+	 *                          sub packages) are reported. If empty, the
+	 *                          whole classpath is reported.
+	 *
+	 * @return The binary names of all entity and converter classes found.
+	 */
+	static Set<String> scan( final Log log, final List<Path> classPathElements, final Collection<String> packageNames ) {
+		final ClassPathScanner scanner = new ClassPathScanner( log, packageNames );
+		final ForkJoinPool pool = new ForkJoinPool( Runtime.getRuntime().availableProcessors() );
+		try {
+			pool.invoke( new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					final List<RecursiveAction> tasks = new ArrayList<>();
+					for( final Path element : classPathElements ) {
+						if( Files.isDirectory( element ) ) {
+							tasks.add( scanner.new DirectoryTask( element, element ) );
+						} else if( Files.isRegularFile( element ) ) {
+							tasks.add( scanner.new JarTask( element ) );
+						}
+					}
+					invokeAll( tasks );
+				}
+			} );
+		} finally {
+			pool.shutdown();
+		}
+		return scanner.classNames;
+	}
+
+	private class DirectoryTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path root;
+		private final Path directory;
+
+		DirectoryTask( final Path root, final Path directory ) {
+			this.root = root;
+			this.directory = directory;
+		}
+
+		@Override
+		protected void compute() {
+			final List<DirectoryTask> subDirectories = new ArrayList<>();
+			try( DirectoryStream<Path> stream = Files.newDirectoryStream( directory ) ) {
+				for( final Path path : stream ) {
+					if( Files.isDirectory( path ) ) {
+						subDirectories.add( new DirectoryTask( root, path ) );
+					} else if( accept( root.relativize( path ).toString().replace( '\\', '/' ) ) ) {
+						final ByteBuffer classFile = ByteBuffer.wrap( Files.readAllBytes( path ) );
+						checkClass( classFile, path.toString() );
+					}
+				}
+			} catch (IOException e) {
+				log.warn( String.format( "Failed to scan directory '%s': %s", directory, e.getMessage() ) );
+			}
+			invokeAll( subDirectories );
+		}
+	}
+
+	private class JarTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path jar;
+
+		JarTask( final Path jar ) {
+			this.jar = jar;
+		}
+
+		@Override
+		protected void compute() {
+			final MappedByteBuffer mapping;
+			try( FileChannel channel = FileChannel.open( jar, StandardOpenOption.READ ) ) {
+				if( channel.size() > Integer.MAX_VALUE ) {
+					scanWithZipFile( jar );
+					return;
+				}
+				mapping = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+			} catch (IOException e) {
+				log.warn( String.format( "Failed to open '%s': %s", jar, e.getMessage() ) );
+				return;
+			}
+
+			final List<int[]> entries;
+			try {
+				entries = readCentralDirectory( mapping.duplicate().order( ByteOrder.LITTLE_ENDIAN ) );
+			} catch (IllegalStateException | IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+				// ZIP64, prefixed or corrupt archives, leave those to java.util.zip
+				scanWithZipFile( jar );
+				return;
+			}
+			if( entries != null ) {
+				new EntriesTask( jar, mapping, entries, 0, entries.size() ).compute();
+			}
+		}
+
+		/**
+		 * Collects {@code [localHeaderOffset, method, compressedSize, uncompressedSize]}
+		 * for every class entry accepted by the package filter.
+		 */
+		private List<int[]> readCentralDirectory( final ByteBuffer zip ) {
+			final int limit = zip.limit();
+			int eocd = -1;
+			for( int i = limit - 22; i >= Math.max( 0, limit - 22 - 0xFFFF ); i-- ) {
+				if( zip.getInt( i ) == END_OF_CENTRAL_DIRECTORY ) {
+					eocd = i;
+					break;
+				}
+			}
+			if( eocd < 0 ) {
+				log.warn( String.format( "Skipping '%s', not a zip file.", jar ) );
+				return null;
+			}
+			final int entryCount = Short.toUnsignedInt( zip.getShort( eocd + 10 ) );
+			final long directorySize = Integer.toUnsignedLong( zip.getInt( eocd + 12 ) );
+			final long directoryOffset = Integer.toUnsignedLong( zip.getInt( eocd + 16 ) );
+			if( entryCount == 0xFFFF || directoryOffset == 0xFFFFFFFFL ) {
+				throw new IllegalStateException( "ZIP64 archive" );
+			}
+			if( directoryOffset + directorySize != eocd ) {
+				// offsets are relative to the start of the zip data, e.g. self-executing jars
+				throw new IllegalStateException( "Archive with prefixed data" );
+			}
+
+			final List<int[]> entries = new ArrayList<>();
+			int offset = (int) directoryOffset;
+			for( int i = 0; i < entryCount; i++ ) {
+				if( zip.getInt( offset ) != CENTRAL_DIRECTORY_ENTRY ) {
+					throw new IllegalStateException( "Corrupt central directory" );
+				}
+				final int flags = Short.toUnsignedInt( zip.getShort( offset + 8 ) );
+				final int method = Short.toUnsignedInt( zip.getShort( offset + 10 ) );
+				final int compressedSize = zip.getInt( offset + 20 );
+				final int uncompressedSize = zip.getInt( offset + 24 );
+				final int nameLength = Short.toUnsignedInt( zip.getShort( offset + 28 ) );
+				final int extraLength = Short.toUnsignedInt( zip.getShort( offset + 30 ) );
+				final int commentLength = Short.toUnsignedInt( zip.getShort( offset + 32 ) );
+				final int localHeaderOffset = zip.getInt( offset + 42 );
+
+				final byte[] name = new byte[nameLength];
+				zip.duplicate().position( offset + 46 ).get( name );
+				if( ( flags & 1 ) == 0 && accept( new String( name, StandardCharsets.UTF_8 ) ) ) {
+					if( compressedSize < 0 || uncompressedSize < 0 || uncompressedSize > MAX_CLASS_FILE_SIZE
+							|| localHeaderOffset < 0
+							|| (long) localHeaderOffset + 30 + compressedSize > directoryOffset
+							|| method == STORED && compressedSize != uncompressedSize ) {
+						throw new IllegalStateException( "Implausible size or offset in central directory" );
+					}
+					entries.add( new int[] { localHeaderOffset, method, compressedSize, uncompressedSize } );
+				}
+				offset += 46 + nameLength + extraLength + commentLength;
+			}
+			return entries;
+		}
+	}
+
+	private class EntriesTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path jar;
+		private final ByteBuffer mapping;
+		private final List<int[]> entries;
+		private final int from;
+		private final int to;
+
+		EntriesTask( final Path jar, final ByteBuffer mapping, final List<int[]> entries, final int from, final int to ) {
+			this.jar = jar;
+			this.mapping = mapping;
+			this.entries = entries;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if( to - from > ENTRIES_PER_TASK ) {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll(
+						new EntriesTask( jar, mapping, entries, from, middle ),
+						new EntriesTask( jar, mapping, entries, middle, to ) );
+				return;
+			}
+
+			// buffer positions are not thread safe, every task works on its own view
+			final ByteBuffer zip = mapping.duplicate().order( ByteOrder.LITTLE_ENDIAN );
+			final Inflater inflater = new Inflater( true );
+			try {
+				for( int i = from; i < to; i++ ) {
+					final int[] entry = entries.get( i );
+					try {
+						final ByteBuffer classFile = readEntry( zip, inflater, entry );
+						if( classFile != null ) {
+							checkClass( classFile, jar.toString() );
+						}
+					} catch (DataFormatException | IndexOutOfBoundsException | IllegalArgumentException e) {
+						log.warn( String.format( "Failed to read entry at offset %d in '%s': %s", entry[0], jar, e.getMessage() ) );
+					}
+				}
+			} finally {
+				inflater.end();
+			}
+		}
+
+		private ByteBuffer readEntry( final ByteBuffer zip, final Inflater inflater, final int[] entry ) throws DataFormatException {
+			final int header = entry[0];
+			if( zip.getInt( header ) != LOCAL_FILE_HEADER ) {
+				throw new IllegalArgumentException( "missing local file header" );
+			}
+			final int nameLength = Short.toUnsignedInt( zip.getShort( header + 26 ) );
+			final int extraLength = Short.toUnsignedInt( zip.getShort( header + 28 ) );
+			final int data = header + 30 + nameLength + extraLength;
+
+			final ByteBuffer compressed = zip.duplicate().position( data ).limit( data + entry[2] ).slice();
+			if( entry[1] == STORED ) {
+				return compressed.order( ByteOrder.BIG_ENDIAN );
+			} else if( entry[1] == DEFLATED ) {
+				final byte[] bytes = new byte[entry[3]];
+				inflater.reset();
+				inflater.setInput( compressed );
+				int read = 0;
+				while( read < bytes.length && !inflater.finished() ) {
+					final int count = inflater.inflate( bytes, read, bytes.length - read );
+					if( count == 0 && ( inflater.needsInput() || inflater.needsDictionary() ) ) {
+						break;
+					}
+					read += count;
+				}
+				return ByteBuffer.wrap( bytes, 0, read );
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Fallback for archives which can't be mapped or whose central directory
+	 * isn't understood by {@link JarTask}.
+	 */
+	private void scanWithZipFile( final Path jar ) {
+		try( ZipFile zipFile = new ZipFile( jar.toFile() ) ) {
+			final Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+			while( zipEntries.hasMoreElements() ) {
+				final ZipEntry entry = zipEntries.nextElement();
+				if( !entry.isDirectory() && accept( entry.getName() ) ) {
+					try( InputStream in = zipFile.getInputStream( entry ) ) {
+						checkClass( ByteBuffer.wrap( in.readAllBytes() ), jar.toString() );
+					}
+				}
+			}
+		} catch (IOException e) {
+			log.warn( String.format( "Failed to scan '%s': %s", jar, e.getMessage() ) );
+		}
+	}
+
+	private boolean accept( final String entryName ) {
+		return entryName.endsWith( ".class" )
+				&& inPackages( entryName )
+				&& !entryName.startsWith( "META-INF/" )
+				&& !entryName.endsWith( "module-info.class" )
+				&& !entryName.endsWith( "package-info.class" );
+	}
+
+	private boolean inPackages( final String entryName ) {
+		if( packagePrefixes.isEmpty() ) {
+			return true;
+		}
+		for( final String packagePrefix : packagePrefixes ) {
+			if( entryName.startsWith( packagePrefix ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void checkClass( final ByteBuffer classFile, final String source ) {
+		try {
+			final String className = entityClassName( classFile );
+			if( className != null ) {
+				classNames.add( className );
+			}
+		} catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException e) {
+			log.debug( String.format( "Skipping malformed class file in '%s'.", source ) );
+		}
+	}
+
+	/**
+	 * Returns the binary name of the class if it is annotated with
+	 * {@code @Entity} or {@code @Converter}, {@code null} otherwise.
+	 */
+	static String entityClassName( final ByteBuffer in ) {
+		if( in.getInt() != CLASS_MAGIC ) {
+			return null;
+		}
+		in.position( in.position() + 4 ); // minor and major version
+
+		final int poolSize = Short.toUnsignedInt( in.getShort() );
+		final int[] utf8Offsets = new int[poolSize];
+		final int[] classNameIndexes = new int[poolSize];
+		boolean candidate = false;
+		for( int i = 1; i < poolSize; i++ ) {
+			final int tag = Byte.toUnsignedInt( in.get() );
+			switch( tag ) {
+				case 1: // Utf8
+					utf8Offsets[i] = in.position();
+					final int length = Short.toUnsignedInt( in.getShort() );
+					candidate |= utf8Equals( in, utf8Offsets[i], ENTITY_DESCRIPTOR )
+							|| utf8Equals( in, utf8Offsets[i], CONVERTER_DESCRIPTOR );
+					in.position( in.position() + length );
+					break;
+				case 7: // Class
+					classNameIndexes[i] = Short.toUnsignedInt( in.getShort() );
+					break;
+				case 8: case 16: case 19: case 20: // String, MethodType, Module, Package
+					in.position( in.position() + 2 );
+					break;
+				case 15: // MethodHandle
+					in.position( in.position() + 3 );
+					break;
+				case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+					in.position( in.position() + 4 );
+					break;
+				case 5: case 6: // Long, Double take two slots
+					in.position( in.position() + 8 );
+					i++;
+					break;
+				default:
+					throw new IllegalArgumentException( "Unknown constant pool tag " + tag );
+			}
+		}
+		if( !candidate ) {
+			return null;
+		}
+
+		in.position( in.position() + 2 ); // access flags
+		final int thisClass = Short.toUnsignedInt( in.getShort() );
+		in.position( in.position() + 2 ); // super class
+		final int interfaceCount = Short.toUnsignedInt( in.getShort() );
+		in.position( in.position() + 2 * interfaceCount );
+		skipMembers( in ); // fields
+		skipMembers( in ); // methods
+
+		final int attributeCount = Short.toUnsignedInt( in.getShort() );
+		for( int i = 0; i < attributeCount; i++ ) {
+			final int nameIndex = Short.toUnsignedInt( in.getShort() );
+			final int length = in.getInt();
+			final int end = in.position() + length;
+			if( utf8Equals( in, utf8Offsets[nameIndex], RUNTIME_VISIBLE_ANNOTATIONS ) ) {
+				final int annotationCount = Short.toUnsignedInt( in.getShort() );
+				for( int a = 0; a < annotationCount; a++ ) {
+					final int typeIndex = Short.toUnsignedInt( in.getShort() );
+					if( utf8Equals( in, utf8Offsets[typeIndex], ENTITY_DESCRIPTOR )
+							|| utf8Equals( in, utf8Offsets[typeIndex], CONVERTER_DESCRIPTOR ) ) {
+						return utf8String( in, utf8Offsets[classNameIndexes[thisClass]] ).replace( '/', '.' );
+					}
+					skipElementValuePairs( in );
+				}
+			}
+			in.position( end );
+		}
+		return null;
+	}
+
+	private static void skipMembers( final ByteBuffer in ) {
+		final int count = Short.toUnsignedInt( in.getShort() );
+		for( int i = 0; i < count; i++ ) {
+			in.position( in.position() + 6 ); // access flags, name, descriptor
+			final int attributeCount = Short.toUnsignedInt( in.getShort() );
+			for( int a = 0; a < attributeCount; a++ ) {
+				in.position( in.position() + 2 );
+				final int length = in.getInt();
+				in.position( in.position() + length );
+			}
+		}
+	}
+
+	private static void skipElementValuePairs( final ByteBuffer in ) {
+		final int pairCount = Short.toUnsignedInt( in.getShort() );
+		for( int i = 0; i < pairCount; i++ ) {
+			in.position( in.position() + 2 ); // element name
+			skipElementValue( in );
+		}
+	}
+
+	private static void skipElementValue( final ByteBuffer in ) {
+		final char tag = (char) in.get();
+		switch( tag ) {
+			case 'e':
+				in.position( in.position() + 4 );
+				break;
+			case '@':
+				in.position( in.position() + 2 );
+				skipElementValuePairs( in );
+				break;
+			case '[':
+				final int count = Short.toUnsignedInt( in.getShort() );
+				for( int i = 0; i < count; i++ ) {
+					skipElementValue( in );
+				}
+				break;
+			default: // constants and class info
+				in.position( in.position() + 2 );
+		}
+	}
+
+	private static boolean utf8Equals( final ByteBuffer in, final int offset, final byte[] expected ) {
+		if( offset == 0 || Short.toUnsignedInt( in.getShort( offset ) ) != expected.length ) {
+			return false;
+		}
+		for( int i = 0; i < expected.length; i++ ) {
+			if( in.get( offset + 2 + i ) != expected[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String utf8String( final ByteBuffer in, final int offset ) {
+		final byte[] bytes = new byte[Short.toUnsignedInt( in.getShort( offset ) )];
+		in.duplicate().position( offset + 2 ).get( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+}
@@ -28,14 +28,19 @@ import org.reflections.util.FilterBuilder;
 
 import java.io.File;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -79,12 +84,27 @@ final class EntityFinder {
 
     private final transient Reflections reflections;
 
+    /**
+     * The entity and converter classes found by the {@link ClassPathScanner}.
+     * {@code null} if the classes are looked up using {@link #reflections}.
+     */
+    private final transient Set<Class<?>> scannedClasses;
+
     private final ClassLoader classLoader;
 
     private EntityFinder(
         final Reflections reflections, final ClassLoader classLoader
     ) {
         this.reflections = reflections;
+        this.scannedClasses = null;
+        this.classLoader = classLoader;
+    }
+
+    private EntityFinder(
+        final Set<Class<?>> scannedClasses, final ClassLoader classLoader
+    ) {
+        this.reflections = null;
+        this.scannedClasses = scannedClasses;
         this.classLoader = classLoader;
     }
 
@@ -97,32 +117,9 @@ final class EntityFinder {
 
         Objects.requireNonNull(project, "Parameter project is null");
 
-        final List<String> classPathElements = new ArrayList<>();
-        try {
-            classPathElements.addAll(project.getCompileClasspathElements());
-            if (includeTestClasses) {
-                classPathElements.addAll(project.getTestClasspathElements());
-            }
-        } catch (DependencyResolutionRequiredException ex) {
-            throw new MojoFailureException(
-                "Failed to resolve project classpath.", ex
-            );
-        }
-
-        final List<URL> classPathUrls = new ArrayList<>();
-        for (final String classPathElem : classPathElements) {
-            log.debug(
-                String.format(
-                    "Adding classpath elemement '%s'...", classPathElem
-                )
-            );
-            classPathUrls.add(classPathElemToUrl(classPathElem));
-        }
-
-        log.debug("Classpath URLs:");
-        for (final URL url : classPathUrls) {
-            log.debug(String.format("\t%s", url.toString()));
-        }
+        final List<URL> classPathUrls = resolveClassPathUrls(
+            project, log, includeTestClasses
+        );
 
         //Here we have to do some classloader magic to ensure that the 
         //Reflections instance uses the correct class loader. Which is the 
@@ -185,31 +182,9 @@ final class EntityFinder {
             );
             classLoader = reflections.getClass().getClassLoader();
         } else {
-            final List<String> classPathElements = new ArrayList<>();
-            try {
-                classPathElements.addAll(project.getCompileClasspathElements());
-                if (includeTestClasses) {
-                    classPathElements.addAll(project.getTestClasspathElements());
-                }
-            } catch (DependencyResolutionRequiredException ex) {
-                throw new MojoFailureException(
-                    "Failed to resolve project classpath.", ex
-                );
-            }
-            final List<URL> classPathUrls = new ArrayList<>();
-            for (final String classPathElement : classPathElements) {
-                log.debug(
-                    String.format(
-                        "Adding classpath elemement '%s'...", classPathElement
-                    )
-                );
-                classPathUrls.add(classPathElemToUrl(classPathElement));
-            }
-
-            log.debug("Classpath URLs:");
-            for (final URL url : classPathUrls) {
-                log.debug(String.format("\t%s", url.toString()));
-            }
+            final List<URL> classPathUrls = resolveClassPathUrls(
+                project, log, includeTestClasses
+            );
 
             //Here we have to do some classloader magic to ensure that the 
             //Reflections instance uses the correct class loader. Which is the 
@@ -239,6 +214,85 @@ final class EntityFinder {
         return new EntityFinder(reflections, classLoader);
     }
 
+    /**
+     * Creates an {@code EntityFinder} which scans the classpath of the project
+     * using the {@link ClassPathScanner} instead of Reflections. The classpath
+     * elements are scanned in parallel.
+     *
+     * @param project            The Maven project in which the calling Mojo
+     *                           is executed.
+     * @param log                An Maven log object for creating output.
+     * @param packageNames       The names of the packages in which the class
+     *                           should look for entities. Empty to scan the
+     *                           whole classpath.
+     * @param includeTestClasses Whether to include the test classpath.
+     *
+     * @return An {@code EntityFinder} instance.
+     *
+     * @throws MojoFailureException If the classpath can't be resolved or one
+     *                              of the classes found can't be loaded.
+     */
+    public static EntityFinder scanClassPath(
+        final MavenProject project,
+        final Log log,
+        final Collection<String> packageNames,
+        final boolean includeTestClasses
+    ) throws MojoFailureException {
+        Objects.requireNonNull(project, "Parameter project is null");
+
+        final List<URL> classPathUrls = resolveClassPathUrls(
+            project, log, includeTestClasses
+        );
+        // the test classpath repeats the compile classpath elements
+        final Set<Path> classPathPaths = new LinkedHashSet<>();
+        for (final URL url : classPathUrls) {
+            try {
+                classPathPaths.add(Paths.get(url.toURI()).normalize());
+            } catch (URISyntaxException ex) {
+                throw new MojoFailureException(
+                    String.format(
+                        "Failed to convert classpath URL '%s' to a path.", url
+                    ),
+                    ex
+                );
+            }
+        }
+
+        final ClassLoader classLoader = AccessController.doPrivileged(
+            new ClassLoaderCreator(classPathUrls)
+        );
+
+        final long start = System.nanoTime();
+        final Set<String> classNames = ClassPathScanner.scan(
+            log, new ArrayList<>(classPathPaths), packageNames
+        );
+        log.debug(
+            String.format(
+                "Scanned %d classpath elements in %d ms.",
+                classPathPaths.size(),
+                (System.nanoTime() - start) / 1_000_000
+            )
+        );
+
+        final Set<Class<?>> scannedClasses = new HashSet<>();
+        for (final String className : classNames) {
+            try {
+                scannedClasses.add(
+                    Class.forName(className, false, classLoader)
+                );
+            } catch (ClassNotFoundException | LinkageError ex) {
+                // like Reflections, skip classes which can't be loaded
+                log.warn(
+                    String.format(
+                        "Skipping class '%s', failed to load it: %s",
+                        className, ex
+                    )
+                );
+            }
+        }
+        return new EntityFinder(scannedClasses, classLoader);
+    }
+
     /**
      * Finds all entity classes and all converter classes in the package for
      * which the instance of this class was created. The entity classes must be
@@ -252,6 +306,9 @@ final class EntityFinder {
     @SuppressWarnings(
         {"PMD.LongVariable"})
     public Set<Class<?>> findEntities() {
+        if (scannedClasses != null) {
+            return new HashSet<>(scannedClasses);
+        }
         final Set<Class<?>> entityClasses = new HashSet<>();
 
         final Set<Class<?>> classesWithEntity = reflections
@@ -297,6 +354,52 @@ final class EntityFinder {
             ).collect(Collectors.toSet());
     }
 
+    /**
+     * Resolves the classpath of the project and converts its elements to URLs.
+     *
+     * @param project            The Maven project in which the calling Mojo
+     *                           is executed.
+     * @param log                An Maven log object for creating output.
+     * @param includeTestClasses Whether to include the test classpath.
+     *
+     * @return The URLs of all classpath elements.
+     *
+     * @throws MojoFailureException If the classpath can't be resolved.
+     */
+    private static List<URL> resolveClassPathUrls(
+        final MavenProject project,
+        final Log log,
+        final boolean includeTestClasses
+    ) throws MojoFailureException {
+        final List<String> classPathElements = new ArrayList<>();
+        try {
+            classPathElements.addAll(project.getCompileClasspathElements());
+            if (includeTestClasses) {
+                classPathElements.addAll(project.getTestClasspathElements());
+            }
+        } catch (DependencyResolutionRequiredException ex) {
+            throw new MojoFailureException(
+                "Failed to resolve project classpath.", ex
+            );
+        }
+
+        final List<URL> classPathUrls = new ArrayList<>();
+        for (final String classPathElem : classPathElements) {
+            log.debug(
+                String.format(
+                    "Adding classpath elemement '%s'...", classPathElem
+                )
+            );
+            classPathUrls.add(classPathElemToUrl(classPathElem));
+        }
+
+        log.debug("Classpath URLs:");
+        for (final URL url : classPathUrls) {
+            log.debug(String.format("\t%s", url.toString()));
+        }
+        return classPathUrls;
+    }
+
     /**
      * Helper method for converting a fully qualified package name from the
      * string representation to a a URL.
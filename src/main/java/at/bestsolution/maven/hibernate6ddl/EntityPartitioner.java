@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2026 BestSolution.at
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package at.bestsolution.maven.hibernate6ddl;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import jakarta.persistence.Converter;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.TableGenerators;
+
+import org.hibernate.annotations.Struct;
+
+/**
+ * Splits the classes found by the {@link EntityFinder} into partitions which
+ * can be handed to Hibernate independently of each other. Every partition is
+ * closed under association references: two entities referencing each other
+ * (directly, through an embeddable, a mapped superclass or an entity
+ * inheritance hierarchy) always end up in the same partition, so no foreign
+ * key ever points into another partition. Entities sharing a generator table
+ * are kept together as well, as Hibernate only emits the initial rows of the
+ * table for the generators of the partition creating it. The same applies to
+ * entities sharing an enum or a {@link Struct} embeddable, which may be mapped
+ * to a database type created along with the tables, like the
+ * {@code create type ... as enum} of a named enum on PostgreSQL. Whether an
+ * enum ends up as such a type depends on the mapping and the dialect, so
+ * every shared enum is treated as one.
+ * <p>
+ * Small connected components are packed together until a partition reaches
+ * the requested size, a component larger than that size is never split.
+ * Converter classes carry no DDL of their own and are added to every
+ * partition.
+ */
+final class EntityPartitioner {
+
+	private static final Comparator<Class<?>> BY_NAME = Comparator.comparing( Class::getName );
+
+	private final Set<Class<?>> entities;
+
+	private final Map<Class<?>, Class<?>> parents = new HashMap<>();
+
+	private final Map<String, Class<?>> sharedObjects = new HashMap<>();
+
+	private EntityPartitioner( final Set<Class<?>> entities ) {
+		this.entities = entities;
+	}
+
+	/**
+	 * Partitions the provided classes.
+	 *
+	 * @param classes       The entity and converter classes to partition.
+	 * @param partitionSize The number of entities up to which connected
+	 *                      components are packed into one partition.
+	 *
+	 * @return The partitions, ordered by the name of their first entity.
+	 */
+	static List<Set<Class<?>>> partition( final Set<Class<?>> classes, final int partitionSize ) {
+		final Set<Class<?>> converters = new TreeSet<>( BY_NAME );
+		final Set<Class<?>> entities = new HashSet<>();
+		for( final Class<?> aClass : classes ) {
+			if( aClass.isAnnotationPresent( Converter.class ) ) {
+				converters.add( aClass );
+			} else {
+				entities.add( aClass );
+			}
+		}
+
+		final EntityPartitioner partitioner = new EntityPartitioner( entities );
+		for( final Class<?> entity : entities ) {
+			partitioner.link( entity );
+		}
+
+		final Map<String, Set<Class<?>>> components = new TreeMap<>();
+		final Map<Class<?>, Set<Class<?>>> byRoot = new HashMap<>();
+		for( final Class<?> entity : entities ) {
+			byRoot.computeIfAbsent( partitioner.find( entity ), root -> new TreeSet<>( BY_NAME ) ).add( entity );
+		}
+		for( final Set<Class<?>> component : byRoot.values() ) {
+			components.put( component.iterator().next().getName(), component );
+		}
+
+		final List<Set<Class<?>>> partitions = new ArrayList<>();
+		Set<Class<?>> current = new TreeSet<>( BY_NAME );
+		for( final Set<Class<?>> component : components.values() ) {
+			if( !current.isEmpty() && current.size() + component.size() > partitionSize ) {
+				partitions.add( current );
+				current = new TreeSet<>( BY_NAME );
+			}
+			current.addAll( component );
+		}
+		if( !current.isEmpty() || partitions.isEmpty() ) {
+			partitions.add( current );
+		}
+		for( final Set<Class<?>> aPartition : partitions ) {
+			aPartition.addAll( converters );
+		}
+		return partitions;
+	}
+
+	/**
+	 * Walks the superclass chain of the entity. Type arguments of generic
+	 * superclasses, e.g. {@code Child extends Base<Owner>}, are resolved so an
+	 * association declared as {@code T owner} in {@code Base} links
+	 * {@code Child} with {@code Owner}.
+	 */
+	private void link( final Class<?> entity ) {
+		final Set<Class<?>> visited = new HashSet<>();
+		Map<TypeVariable<?>, Type> bindings = Map.of();
+		Class<?> type = entity;
+		while( type != null && type != Object.class ) {
+			if( type != entity && entities.contains( type ) ) {
+				union( entity, type );
+			}
+			collectGenerators( entity, type );
+			collectMembers( entity, type, bindings, visited );
+			bindings = bindings( type.getGenericSuperclass(), bindings );
+			type = type.getSuperclass();
+		}
+	}
+
+	private static Map<TypeVariable<?>, Type> bindings( final Type superType, final Map<TypeVariable<?>, Type> subBindings ) {
+		if( !( superType instanceof ParameterizedType ) ) {
+			return Map.of();
+		}
+		final ParameterizedType parameterized = (ParameterizedType) superType;
+		final TypeVariable<?>[] variables = ( (Class<?>) parameterized.getRawType() ).getTypeParameters();
+		final Type[] arguments = parameterized.getActualTypeArguments();
+		final Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+		for( int i = 0; i < variables.length; i++ ) {
+			final Type argument = arguments[i];
+			bindings.put( variables[i], subBindings.getOrDefault( argument, argument ) );
+		}
+		return bindings;
+	}
+
+	/**
+	 * Links the entity with every entity referenced by the persistent members
+	 * of {@code type}. Embeddables are followed recursively.
+	 */
+	private void collectMembers( final Class<?> entity, final Class<?> type, final Map<TypeVariable<?>, Type> bindings, final Set<Class<?>> visited ) {
+		if( !visited.add( type ) ) {
+			return;
+		}
+		for( final Field field : type.getDeclaredFields() ) {
+			collectType( entity, field.getGenericType(), bindings, visited );
+			collectTargets( entity, field, bindings, visited );
+			collectGenerators( entity, field );
+		}
+		for( final Method method : type.getDeclaredMethods() ) {
+			if( method.getParameterCount() == 0 && method.getReturnType() != void.class ) {
+				collectType( entity, method.getGenericReturnType(), bindings, visited );
+				collectTargets( entity, method, bindings, visited );
+				collectGenerators( entity, method );
+			}
+		}
+	}
+
+	private void collectTargets( final Class<?> entity, final AnnotatedElement member, final Map<TypeVariable<?>, Type> bindings, final Set<Class<?>> visited ) {
+		final OneToOne oneToOne = member.getAnnotation( OneToOne.class );
+		if( oneToOne != null ) {
+			collectType( entity, oneToOne.targetEntity(), bindings, visited );
+		}
+		final OneToMany oneToMany = member.getAnnotation( OneToMany.class );
+		if( oneToMany != null ) {
+			collectType( entity, oneToMany.targetEntity(), bindings, visited );
+		}
+		final ManyToOne manyToOne = member.getAnnotation( ManyToOne.class );
+		if( manyToOne != null ) {
+			collectType( entity, manyToOne.targetEntity(), bindings, visited );
+		}
+		final ManyToMany manyToMany = member.getAnnotation( ManyToMany.class );
+		if( manyToMany != null ) {
+			collectType( entity, manyToMany.targetEntity(), bindings, visited );
+		}
+		final ElementCollection elementCollection = member.getAnnotation( ElementCollection.class );
+		if( elementCollection != null ) {
+			collectType( entity, elementCollection.targetClass(), bindings, visited );
+		}
+	}
+
+	/**
+	 * Links the entity with every other entity using one of the generator
+	 * tables declared on or used by {@code element}.
+	 */
+	private void collectGenerators( final Class<?> entity, final AnnotatedElement element ) {
+		final TableGenerator tableGenerator = element.getAnnotation( TableGenerator.class );
+		if( tableGenerator != null ) {
+			collectGenerator( entity, tableGenerator );
+		}
+		final TableGenerators tableGenerators = element.getAnnotation( TableGenerators.class );
+		if( tableGenerators != null ) {
+			for( final TableGenerator aGenerator : tableGenerators.value() ) {
+				collectGenerator( entity, aGenerator );
+			}
+		}
+		final GeneratedValue generatedValue = element.getAnnotation( GeneratedValue.class );
+		if( generatedValue != null && generatedValue.strategy() == GenerationType.TABLE && generatedValue.generator().isEmpty() ) {
+			share( entity, generatorTableKey( "", "", "" ) );
+		}
+	}
+
+	private void collectGenerator( final Class<?> entity, final TableGenerator tableGenerator ) {
+		share( entity, generatorTableKey( tableGenerator.catalog(), tableGenerator.schema(), tableGenerator.table() ) );
+	}
+
+	private static String generatorTableKey( final String catalog, final String schema, final String table ) {
+		// Hibernate's default for generators without an explicit table
+		final String tableName = table.isEmpty() ? "hibernate_sequences" : table;
+		return ( "table:" + catalog + "." + schema + "." + tableName ).toLowerCase( Locale.ROOT );
+	}
+
+	private void collectType( final Class<?> entity, final Type type, final Map<TypeVariable<?>, Type> bindings, final Set<Class<?>> visited ) {
+		if( type instanceof Class ) {
+			final Class<?> aClass = (Class<?>) type;
+			if( aClass.isArray() ) {
+				collectType( entity, aClass.getComponentType(), bindings, visited );
+			} else if( entities.contains( aClass ) ) {
+				union( entity, aClass );
+			} else if( aClass.isEnum() ) {
+				// named enum types are named after the simple name of the enum
+				share( entity, ( "enum:" + aClass.getSimpleName() ).toLowerCase( Locale.ROOT ) );
+			} else if( aClass.isAnnotationPresent( Embeddable.class )
+					|| aClass.isAnnotationPresent( MappedSuperclass.class ) ) {
+				final Struct struct = aClass.getAnnotation( Struct.class );
+				if( struct != null ) {
+					share( entity, ( "struct:" + struct.name() ).toLowerCase( Locale.ROOT ) );
+				}
+				for( Class<?> embedded = aClass; embedded != null && embedded != Object.class; embedded = embedded.getSuperclass() ) {
+					collectMembers( entity, embedded, Map.of(), visited );
+				}
+			}
+		} else if( type instanceof ParameterizedType ) {
+			for( final Type argument : ( (ParameterizedType) type ).getActualTypeArguments() ) {
+				collectType( entity, argument, bindings, visited );
+			}
+		} else if( type instanceof GenericArrayType ) {
+			collectType( entity, ( (GenericArrayType) type ).getGenericComponentType(), bindings, visited );
+		} else if( type instanceof WildcardType ) {
+			for( final Type bound : ( (WildcardType) type ).getUpperBounds() ) {
+				collectType( entity, bound, bindings, visited );
+			}
+		} else if( type instanceof TypeVariable ) {
+			final Type bound = bindings.get( type );
+			if( bound != null ) {
+				collectType( entity, bound, Map.of(), visited );
+			} else {
+				// unresolved, e.g. declared by a generic method or embeddable
+				for( final Type upperBound : ( (TypeVariable<?>) type ).getBounds() ) {
+					collectType( entity, upperBound, Map.of(), visited );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Links the entity with the first entity which used the shared database
+	 * object identified by {@code key}.
+	 */
+	private void share( final Class<?> entity, final String key ) {
+		final Class<?> owner = sharedObjects.putIfAbsent( key, entity );
+		if( owner != null ) {
+			union( owner, entity );
+		}
+	}
+
+	private Class<?> find( final Class<?> entity ) {
+		Class<?> root = entity;
+		Class<?> parent;
+		while( ( parent = parents.get( root ) ) != null && parent != root ) {
+			root = parent;
+		}
+		// path compression
+		Class<?> node = entity;
+		while( node != root ) {
+			final Class<?> next = parents.get( node );
+			parents.put( node, root );
+			node = next;
+		}
+		return root;
+	}
+
+	private void union( final Class<?> first, final Class<?> second ) {
+		final Class<?> firstRoot = find( first );
+		final Class<?> secondRoot = find( second );
+		if( firstRoot != secondRoot ) {
+			parents.put( secondRoot, firstRoot );
+		}
+	}
+}
@@ -7,12 +7,15 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.internal.Formatter;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.hbm2ddl.SchemaExport;
 import org.hibernate.tool.schema.SourceType;
 import org.hibernate.tool.schema.internal.DefaultSchemaFilterProvider;
 import org.hibernate.tool.schema.internal.ExceptionHandlerCollectingImpl;
 import org.hibernate.tool.schema.internal.ExceptionHandlerHaltImpl;
+import org.hibernate.tool.schema.internal.Helper;
 import org.hibernate.tool.schema.spi.ContributableMatcher;
 import org.hibernate.tool.schema.spi.ExceptionHandler;
 import org.hibernate.tool.schema.spi.ExecutionOptions;
@@ -36,6 +39,34 @@ public class FilteredSchemaExport extends SchemaExport {
 	private boolean format = false;
 	private String delimiter = null;
 	private String importFiles;
+
+	// only set for the partitioned generation
+	private PartitionSchemaFilter partitionFilter;
+	private boolean skipImportFiles = false;
+
+	/**
+	 * Sets the filter for the current pass of the partitioned generation. While set, catalogs and schemas are
+	 * handled through the filter instead of the {@link SchemaManagementTool}.
+	 */
+	void setPartitionFilter(PartitionSchemaFilter partitionFilter) {
+		this.partitionFilter = partitionFilter;
+	}
+
+	/**
+	 * Set to {@code true} to leave out the import files and load script, so the partitioned
+	 * generation can apply them once after the last partition.
+	 */
+	void setSkipImportFiles(boolean skipImportFiles) {
+		this.skipImportFiles = skipImportFiles;
+	}
+
+	/**
+	 * Writes the drop statements for all catalogs and schemas collected by the current partition
+	 * filter, after the tables of all partitions have been dropped.
+	 */
+	void dropCollectedNamespaces(TargetDescriptor targetDescriptor) {
+		writeNamespaceCommands( partitionFilter.namespaces(), targetDescriptor );
+	}
 	
 	@Override
 	public SchemaExport setImportFiles(String importFiles) {
@@ -73,6 +104,18 @@ public class FilteredSchemaExport extends SchemaExport {
 		config.put( AvailableSettings.HBM2DDL_DELIMITER, delimiter );
 		config.put( AvailableSettings.FORMAT_SQL, format );
 		config.put( AvailableSettings.HBM2DDL_IMPORT_FILES, importFiles );
+		if ( skipImportFiles ) {
+			// an empty value falls back to the default import.sql, a list of empty names is skipped entirely
+			config.put( AvailableSettings.HBM2DDL_IMPORT_FILES, "," );
+			config.remove( AvailableSettings.HBM2DDL_LOAD_SCRIPT_SOURCE );
+			config.remove( AvailableSettings.JAKARTA_HBM2DDL_LOAD_SCRIPT_SOURCE );
+		}
+		final boolean manageNamespaces = partitionFilter != null && Helper.interpretNamespaceHandling( config );
+		if ( partitionFilter != null ) {
+			config.remove( AvailableSettings.HBM2DDL_CREATE_SCHEMAS );
+			config.remove( AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS );
+			config.remove( AvailableSettings.HBM2DDL_CREATE_NAMESPACES );
+		}
 
 		final SchemaManagementTool tool = serviceRegistry.getService( SchemaManagementTool.class );
 
@@ -102,7 +145,7 @@ public class FilteredSchemaExport extends SchemaExport {
 			if ( action.doDrop() ) {
 				final ExecutionOptions executionOptions = SchemaManagementToolCoordinator.buildExecutionOptions(
 						config,
-						schemaFilter.getDropFilter(),
+						partitionFilter != null ? partitionFilter.delegateTo( schemaFilter.getDropFilter() ) : schemaFilter.getDropFilter(),
 						exceptionHandler
 				);
 				tool.getSchemaDropper( config ).doDrop(
@@ -112,14 +155,21 @@ public class FilteredSchemaExport extends SchemaExport {
 						sourceDescriptor,
 						targetDescriptor
 				);
+				if ( manageNamespaces ) {
+					// dropped once the tables of all partitions are gone
+					partitionFilter.newNamespaces( metadata, true );
+				}
 			}
 
 			if ( action.doCreate() ) {
 				final ExecutionOptions executionOptions = SchemaManagementToolCoordinator.buildExecutionOptions(
 						config,
-						schemaFilter.getCreateFilter(),
+						partitionFilter != null ? partitionFilter.delegateTo( schemaFilter.getCreateFilter() ) : schemaFilter.getCreateFilter(),
 						exceptionHandler
 				);
+				if ( manageNamespaces ) {
+					writeNamespaceCommands( partitionFilter.newNamespaces( metadata, false ), targetDescriptor );
+				}
 				tool.getSchemaCreator( config ).doCreation(
 						metadata,
 						executionOptions,
@@ -130,9 +180,22 @@ public class FilteredSchemaExport extends SchemaExport {
 			}
 		}
 		finally {
+			if ( partitionFilter != null ) {
+				partitionFilter.partitionDone();
+			}
 			if ( exceptionHandler instanceof ExceptionHandlerCollectingImpl ) {
 				getExceptions().addAll( ( (ExceptionHandlerCollectingImpl) exceptionHandler ).getExceptions() );
 			}
 		}
 	}
+
+	private void writeNamespaceCommands(Map<String, String[]> namespaceCommands, TargetDescriptor targetDescriptor) {
+		final Formatter formatter = format ? FormatStyle.DDL.getFormatter() : FormatStyle.NONE.getFormatter();
+		for ( String[] commands : namespaceCommands.values() ) {
+			for ( String command : commands ) {
+				final String formatted = formatter.format( command );
+				targetDescriptor.getScriptTargetOutput().accept( delimiter == null ? formatted : formatted + delimiter );
+			}
+		}
+	}
 }
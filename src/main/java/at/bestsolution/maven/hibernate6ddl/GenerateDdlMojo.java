@@ -18,9 +18,13 @@
 package at.bestsolution.maven.hibernate6ddl;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -47,7 +51,7 @@ import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfoSource;
 import org.hibernate.tool.hbm2ddl.SchemaExport;
 import org.hibernate.tool.schema.TargetType;
 
-@Mojo( name = "gen-ddl", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true )
+@Mojo( name = "gen-ddl", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true )
 public class GenerateDdlMojo extends AbstractMojo {
 
 	/**
@@ -65,6 +69,13 @@ public class GenerateDdlMojo extends AbstractMojo {
 	@Parameter( defaultValue = "false" )
 	private boolean includeTestClasses;
 
+	/**
+	 * Set to {@code true} to scan the classpath elements in parallel, reading jar files through
+	 * memory-mapped file channels instead of Reflections. Speeds up projects with many dependencies.
+	 */
+	@Parameter( defaultValue = "false" )
+	private boolean parallelScan;
+
 	/**
 	 * Dialect (class name) to generate DDL for, without the `Dialect` suffix. May be suffixed with
 	 * `@x` to select a specific major version. Example: `PostgreSQL@13` selects 
@@ -76,6 +87,22 @@ public class GenerateDdlMojo extends AbstractMojo {
 
 	@Parameter( defaultValue = "false" )
 	private boolean createDropStatements;
+
+	/**
+	 * Set to {@code true} to generate the DDL in bounded memory. The entities are split into
+	 * partitions closed under association references, each partition is built and exported on
+	 * its own and its metadata released before the next one. Statements are streamed to the
+	 * output file as they are generated.
+	 */
+	@Parameter( defaultValue = "false" )
+	private boolean partitioned;
+
+	/**
+	 * Number of entities up to which unrelated entity groups are combined into one partition when
+	 * {@code partitioned} is enabled. Groups of associated entities larger than this are never split.
+	 */
+	@Parameter( defaultValue = "200" )
+	private int partitionSize;
 	
 	/**
 	 * Additional properties to pass to Hibernate.
@@ -100,7 +127,13 @@ public class GenerateDdlMojo extends AbstractMojo {
 
 		final Set<Class<?>> entityClasses;
 		final Set<Package> annotatedPackages;
-		if( packages == null || packages.length == 0 ) {
+		if( parallelScan ) {
+			// a single scan covers all packages
+			final EntityFinder entityFinder = EntityFinder.scanClassPath(
+					project, getLog(), packages == null ? List.of() : Arrays.asList( packages ), includeTestClasses );
+			entityClasses = entityFinder.findEntities();
+			annotatedPackages = entityFinder.findPackages();
+		} else if( packages == null || packages.length == 0 ) {
 			final EntityFinder entityFinder = EntityFinder.forClassPath(
 					project, getLog(), includeTestClasses );
 			entityClasses = entityFinder.findEntities();
@@ -130,12 +163,68 @@ public class GenerateDdlMojo extends AbstractMojo {
 							"Found %d annotated packages.", annotatedPackages.size() ) );
 		}
 
-		for( final String dialect : dialects ) {
-			generateDdl( dialect, annotatedPackages, entityClasses );
+		if( partitioned ) {
+			final List<Set<Class<?>>> partitions = EntityPartitioner.partition( entityClasses, partitionSize );
+			getLog().info( String.format( "Split entities into %d partitions.", partitions.size() ) );
+			for( final String dialect : dialects ) {
+				generatePartitionedDdl( dialect, annotatedPackages, partitions );
+			}
+		} else {
+			for( final String dialect : dialects ) {
+				generateDdl( dialect, annotatedPackages, entityClasses );
+			}
 		}
 	}
 
 	public void generateDdl( final String dialectName, final Set<Package> packages, final Set<Class<?>> entityClasses ) {
+		final Metadata metadata = buildMetadata( buildServiceRegistry( dialectName ), packages, entityClasses );
+
+		final SchemaExport export = createExport();
+		export.setOutputFile( outputFile( dialectName ).toString() );
+		export.setOverrideOutputFileContent();
+		export.execute(EnumSet.of(TargetType.SCRIPT), exportAction(), metadata);
+	}
+
+	/**
+	 * Generates the DDL for one partition after the other, releasing the metadata and service
+	 * registry of a partition before the next one is built. The drop statements of all partitions
+	 * are written before the create statements, the import files are applied once after the last
+	 * partition. As no association crosses partition boundaries, this keeps the statements in
+	 * dependency order.
+	 */
+	public void generatePartitionedDdl( final String dialectName, final Set<Package> packages, final List<Set<Class<?>>> partitions ) throws MojoExecutionException {
+		final FilteredSchemaExport export = createExport();
+		try( ScriptFileTarget target = new ScriptFileTarget( outputFile( dialectName ) ) ) {
+			if( createDropStatements ) {
+				export.setPartitionFilter( new PartitionSchemaFilter() );
+				exportPartitions( dialectName, packages, partitions, SchemaExport.Action.DROP, export, target );
+				export.dropCollectedNamespaces( target );
+			}
+			export.setPartitionFilter( new PartitionSchemaFilter() );
+			exportPartitions( dialectName, packages, partitions, SchemaExport.Action.CREATE, export, target );
+		} catch (IOException e) {
+			throw new MojoExecutionException( String.format( "Failed to write DDL file for dialect %s.", dialectName ), e );
+		}
+	}
+
+	private void exportPartitions( final String dialectName, final Set<Package> packages, final List<Set<Class<?>>> partitions,
+			final SchemaExport.Action action, final FilteredSchemaExport export, final ScriptFileTarget target ) throws IOException {
+		for( int index = 0; index < partitions.size(); index++ ) {
+			final Set<Class<?>> partition = partitions.get( index );
+			getLog().debug( String.format( "Generating %s statements of partition %d with %d classes for %s.", action, index + 1, partition.size(), dialectName ) );
+			final StandardServiceRegistry standardRegistry = buildServiceRegistry( dialectName );
+			try {
+				target.open( standardRegistry );
+				final Metadata metadata = buildMetadata( standardRegistry, packages, partition );
+				export.setSkipImportFiles( index < partitions.size() - 1 );
+				export.doExecution( action, false, metadata, standardRegistry, target );
+			} finally {
+				StandardServiceRegistryBuilder.destroy( standardRegistry );
+			}
+		}
+	}
+
+	private StandardServiceRegistry buildServiceRegistry( final String dialectName ) {
 		final var registryBuilder = new StandardServiceRegistryBuilder();
 		registryBuilder.addService( DialectFactory.class, new DialectFactory() {
 			private static final long serialVersionUID = 1L;
@@ -164,7 +253,10 @@ public class GenerateDdlMojo extends AbstractMojo {
 			applyUserProperties( registryBuilder );
 		}
 		
-		final StandardServiceRegistry standardRegistry = registryBuilder.build();
+		return registryBuilder.build();
+	}
+
+	private Metadata buildMetadata( final StandardServiceRegistry standardRegistry, final Set<Package> packages, final Set<Class<?>> entityClasses ) {
         final MetadataSources metadataSources = new MetadataSources(standardRegistry);
         
         for (final Package aPackage : packages) {
@@ -174,16 +266,24 @@ public class GenerateDdlMojo extends AbstractMojo {
             metadataSources.addAnnotatedClass(entityClass);
         }
 
-        final Metadata metadata = metadataSources.buildMetadata();
-        
-        final SchemaExport export = new FilteredSchemaExport();
+        return metadataSources.buildMetadata();
+	}
+
+	private FilteredSchemaExport createExport() {
+        final FilteredSchemaExport export = new FilteredSchemaExport();
         export.setDelimiter(";");
         export.setManageNamespaces(true);
         export.setHaltOnError(true);
         export.setFormat(true);
-        export.setOutputFile( outputDirectory.toPath().resolve( dialectName.replace( "@", "" ).toLowerCase() + ".sql" ).toString() );
-        export.setOverrideOutputFileContent();
-        export.execute(EnumSet.of(TargetType.SCRIPT), createDropStatements ? SchemaExport.Action.BOTH : SchemaExport.Action.CREATE, metadata);
+        return export;
+	}
+
+	private SchemaExport.Action exportAction() {
+		return createDropStatements ? SchemaExport.Action.BOTH : SchemaExport.Action.CREATE;
+	}
+
+	private Path outputFile( final String dialectName ) {
+		return outputDirectory.toPath().resolve( dialectName.replace( "@", "" ).toLowerCase() + ".sql" );
 	}
 	
 	private void applyUserProperties( StandardServiceRegistryBuilder registryBuilder ) {
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 BestSolution.at
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package at.bestsolution.maven.hibernate6ddl;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+
+/**
+ * {@link SchemaFilter} used by the partitioned generation for one pass (drop
+ * or create) over all partitions. Objects shared between partitions, like
+ * sequences and generator tables, are only included by the first partition
+ * using them, keyed by their qualified name.
+ * <p>
+ * Schemas and catalogs are tracked here as well: a partition can't leave them
+ * out through {@link #includeNamespace(Namespace)} without losing the tables
+ * inside, so {@link FilteredSchemaExport} disables namespace management per
+ * partition and asks this filter for the namespace statements instead.
+ */
+class PartitionSchemaFilter implements SchemaFilter {
+
+	private final Set<String> claimedTables = new HashSet<>();
+	private final Set<String> claimedSequences = new HashSet<>();
+	private final Set<String> partitionTables = new HashSet<>();
+	private final Set<String> partitionSequences = new HashSet<>();
+	private final Map<String, String[]> namespaces = new LinkedHashMap<>();
+
+	private SchemaFilter delegate;
+
+	/**
+	 * Sets the filter configured for the current partition, every object
+	 * excluded by it stays excluded.
+	 */
+	SchemaFilter delegateTo( final SchemaFilter delegate ) {
+		this.delegate = delegate;
+		return this;
+	}
+
+	/**
+	 * Marks the objects included so far as claimed, so following partitions
+	 * won't include them again.
+	 */
+	void partitionDone() {
+		claimedTables.addAll( partitionTables );
+		claimedSequences.addAll( partitionSequences );
+		partitionTables.clear();
+		partitionSequences.clear();
+	}
+
+	/**
+	 * Collects the catalogs and schemas of the partition which weren't seen
+	 * before, following the rules of {@code SchemaCreatorImpl} and
+	 * {@code SchemaDropperImpl}: catalogs are only handled if the dialect
+	 * {@link Dialect#canCreateCatalog() can create catalogs}, schemas only if
+	 * it {@link Dialect#canCreateSchema() can create schemas}. A catalog is
+	 * created before and dropped after its schemas.
+	 *
+	 * @param metadata The metadata of the partition.
+	 * @param drop     {@code true} to collect drop, {@code false} to collect
+	 *                 create statements.
+	 *
+	 * @return The unformatted statements for the new catalogs and schemas.
+	 */
+	Map<String, String[]> newNamespaces( final Metadata metadata, final boolean drop ) {
+		final Dialect dialect = metadata.getDatabase().getDialect();
+		final Map<String, String[]> newNamespaces = new LinkedHashMap<>();
+		for( final Namespace namespace : metadata.getDatabase().getNamespaces() ) {
+			if( !delegate.includeNamespace( namespace ) ) {
+				continue;
+			}
+			final Identifier catalog = namespace.getPhysicalName().getCatalog();
+			final Identifier schema = namespace.getPhysicalName().getSchema();
+			if( !drop && catalog != null && dialect.canCreateCatalog() ) {
+				final String catalogName = catalog.render( dialect );
+				addNamespace( "catalog:" + catalogName, dialect.getCreateCatalogCommand( catalogName ), newNamespaces );
+			}
+			if( schema != null && dialect.canCreateSchema() ) {
+				final String schemaName = schema.render( dialect );
+				final String key = "schema:" + ( catalog == null ? "" : catalog.render( dialect ) + "." ) + schemaName;
+				addNamespace( key, drop ? dialect.getDropSchemaCommand( schemaName ) : dialect.getCreateSchemaCommand( schemaName ), newNamespaces );
+			}
+			if( drop && catalog != null && dialect.canCreateCatalog() ) {
+				final String catalogName = catalog.render( dialect );
+				addNamespace( "catalog:" + catalogName, dialect.getDropCatalogCommand( catalogName ), newNamespaces );
+			}
+		}
+		return newNamespaces;
+	}
+
+	private void addNamespace( final String key, final String[] commands, final Map<String, String[]> newNamespaces ) {
+		if( !namespaces.containsKey( key ) ) {
+			namespaces.put( key, commands );
+			newNamespaces.put( key, commands );
+		}
+	}
+
+	/**
+	 * @return The statements for all catalogs and schemas collected during
+	 *         this pass, the schemas first so they are dropped before their
+	 *         catalogs.
+	 */
+	Map<String, String[]> namespaces() {
+		final Map<String, String[]> ordered = new LinkedHashMap<>();
+		namespaces.forEach( ( key, commands ) -> {
+			if( key.startsWith( "schema:" ) ) {
+				ordered.put( key, commands );
+			}
+		} );
+		ordered.putAll( namespaces );
+		return ordered;
+	}
+
+	@Override
+	public boolean includeNamespace( Namespace namespace ) {
+		return delegate.includeNamespace( namespace );
+	}
+
+	@Override
+	public boolean includeTable( Table table ) {
+		if( !delegate.includeTable( table ) ) {
+			return false;
+		}
+		final String name = table.getQualifiedTableName().render();
+		if( claimedTables.contains( name ) ) {
+			return false;
+		}
+		partitionTables.add( name );
+		return true;
+	}
+
+	@Override
+	public boolean includeSequence( Sequence sequence ) {
+		if( !delegate.includeSequence( sequence ) ) {
+			return false;
+		}
+		final String name = sequence.getName().render();
+		if( claimedSequences.contains( name ) ) {
+			return false;
+		}
+		partitionSequences.add( name );
+		return true;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 BestSolution.at
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package at.bestsolution.maven.hibernate6ddl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.spi.CommandAcceptanceException;
+import org.hibernate.tool.schema.spi.ScriptTargetOutput;
+import org.hibernate.tool.schema.spi.TargetDescriptor;
+
+/**
+ * Script target which stays open across several schema exports and appends
+ * every statement to the same file as soon as Hibernate produces it. Used for
+ * the partitioned generation, where each partition is exported on its own.
+ * Objects shared between partitions are left out by the
+ * {@link PartitionSchemaFilter}, so every statement is written straight
+ * through.
+ */
+class ScriptFileTarget implements TargetDescriptor, ScriptTargetOutput, AutoCloseable {
+
+	private final Path outputFile;
+	private Writer writer;
+
+	ScriptFileTarget( final Path outputFile ) {
+		this.outputFile = outputFile;
+	}
+
+	/**
+	 * Opens the file on first use. The charset is taken from
+	 * {@value AvailableSettings#HBM2DDL_CHARSET_NAME} like for
+	 * {@link org.hibernate.tool.hbm2ddl.SchemaExport#setOutputFile(String)},
+	 * falling back to the platform default.
+	 */
+	void open( final ServiceRegistry serviceRegistry ) throws IOException {
+		if( writer != null ) {
+			return;
+		}
+		final Object charsetName = serviceRegistry.getService( ConfigurationService.class )
+				.getSettings()
+				.get( AvailableSettings.HBM2DDL_CHARSET_NAME );
+		final Charset charset = charsetName == null ? Charset.defaultCharset() : Charset.forName( charsetName.toString() );
+		writer = Files.newBufferedWriter( outputFile, charset );
+	}
+
+	@Override
+	public EnumSet<TargetType> getTargetTypes() {
+		return EnumSet.of( TargetType.SCRIPT );
+	}
+
+	@Override
+	public ScriptTargetOutput getScriptTargetOutput() {
+		return this;
+	}
+
+	@Override
+	public void prepare() {
+		// the file is opened once by open(ServiceRegistry)
+	}
+
+	@Override
+	public void accept( String command ) {
+		try {
+			writer.write( command );
+			writer.write( System.lineSeparator() );
+		} catch (IOException e) {
+			throw new CommandAcceptanceException( "Could not write \"" + command + "\" to target script file", e );
+		}
+	}
+
+	@Override
+	public void release() {
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			throw new CommandAcceptanceException( "Could not flush target script file", e );
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if( writer != null ) {
+			writer.close();
+		}
+	}
+}